@@ -12,9 +12,12 @@ import net.dv8tion.jda.api.entities.channel.concrete.TextChannel;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.time.Clock;
+
 import static de.rettichlp.dclogging.message.MessageTemplate.MessageTemplateType.ERROR;
 import static de.rettichlp.dclogging.message.MessageTemplate.MessageTemplateType.INFO;
 import static de.rettichlp.dclogging.message.MessageTemplate.MessageTemplateType.WARN;
+import static java.time.Clock.systemUTC;
 import static java.util.Objects.isNull;
 import static java.util.Optional.ofNullable;
 import static net.dv8tion.jda.api.utils.cache.CacheFlag.MEMBER_OVERRIDES;
@@ -52,6 +55,13 @@ public class DiscordLogging {
     @Builder.Default
     private final boolean appendStacktraceToError = true;
 
+    /**
+     * The clock used to capture the timestamp of logged events. This field defaults to the system clock in UTC and can be replaced, for
+     * example, with a fixed clock for deterministic timestamps.
+     */
+    @Builder.Default
+    private final Clock clock = systemUTC();
+
     /**
      * The template used for sending informational messages (e.g., logs at the INFO level). This field defaults to a standard
      * {@link MessageTemplate} for INFO-level messages.
@@ -87,7 +97,8 @@ public class DiscordLogging {
         LogMessage logMessage = LogMessage.builder()
                 .message(message)
                 .arguments(args)
-                .messageTemplateType(INFO)
+                .timestamp(this.clock.instant())
+                .messageTemplate(this.infoMessageTemplate)
                 .build();
 
         logMessage.send(getTextChannel(this.textChannelId));
@@ -107,7 +118,8 @@ public class DiscordLogging {
         LogMessage logMessage = LogMessage.builder()
                 .message(message)
                 .arguments(args)
-                .messageTemplateType(WARN)
+                .timestamp(this.clock.instant())
+                .messageTemplate(this.warnMessageTemplate)
                 .build();
 
         logMessage.send(getTextChannel(this.textChannelId));
@@ -142,7 +154,8 @@ public class DiscordLogging {
         LogMessage logMessage = LogMessage.builder()
                 .message(message)
                 .arguments(args)
-                .messageTemplateType(ERROR)
+                .timestamp(this.clock.instant())
+                .messageTemplate(this.errorMessageTemplate)
                 .throwable(throwable)
                 .build();
 
@@ -10,6 +10,7 @@ import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.InputStream;
 import java.io.PrintStream;
+import java.time.Instant;
 import java.util.stream.Stream;
 
 import static java.util.Objects.nonNull;
@@ -23,16 +24,23 @@ public class LogMessage {
     private final String message;
     @Builder.Default
     private final Object[] arguments = new Object[0];
-    private final MessageTemplate.MessageTemplateType messageTemplateType;
+    private final MessageTemplate messageTemplate;
     private final Throwable throwable;
 
+    /**
+     * The time the logged event happened. It is captured when the log message is created, so queued messages still show the time of
+     * the event instead of the time they were sent.
+     */
+    @Builder.Default
+    private final Instant timestamp = Instant.now();
+
     public void send(@NotNull TextChannel textChannel) {
         // populate the message with the arguments
         String populatedMessage = Stream.of(this.arguments)
                 .reduce(this.message, (result, arg) -> result.replaceFirst(ARGUMENT_PLACEHOLDER, arg.toString()), (s1, s2) -> s1);
 
         // apply message to message template
-        String formattedMessage = new MessageTemplate(this.messageTemplateType).applyMessage(populatedMessage);
+        String formattedMessage = this.messageTemplate.applyMessage(populatedMessage, this.timestamp);
 
         // create message
         MessageCreateAction messageCreateAction = textChannel.sendMessage(formattedMessage);
@@ -2,11 +2,17 @@ package de.rettichlp.dclogging.message;
 
 import lombok.AllArgsConstructor;
 import lombok.Getter;
+import org.jetbrains.annotations.NotNull;
 
-import static java.lang.String.valueOf;
-import static java.lang.System.currentTimeMillis;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.LongFunction;
+
+import static java.time.format.DateTimeFormatter.ISO_INSTANT;
+import static java.util.EnumSet.noneOf;
 
-@AllArgsConstructor
 public class MessageTemplate {
 
     private static final String DEFAULT_MESSAGE_TEMPLATE = """
@@ -18,17 +24,102 @@ public class MessageTemplate {
 
     private final String messageTemplateString;
 
+    /**
+     * The timestamp formats whose placeholders are contained in the template string. Only these are formatted and replaced when a
+     * message is applied.
+     */
+    private final Set<TimestampFormat> timestampFormats;
+
+    /**
+     * The formatted timestamps of the most recently applied epoch second. Log messages are usually sent in bursts within the same
+     * second, so the timestamps are only formatted again when the second changes.
+     */
+    private volatile CachedTimestamps cachedTimestamps = new CachedTimestamps(Long.MIN_VALUE, Map.of());
+
+    public MessageTemplate(String messageTemplateString) {
+        this.messageTemplateString = messageTemplateString;
+        this.timestampFormats = noneOf(TimestampFormat.class);
+
+        for (TimestampFormat timestampFormat : TimestampFormat.values()) {
+            if (messageTemplateString.contains(timestampFormat.getPlaceholder())) {
+                this.timestampFormats.add(timestampFormat);
+            }
+        }
+    }
+
     public MessageTemplate(MessageTemplateType type) {
-        this.messageTemplateString = DEFAULT_MESSAGE_TEMPLATE
+        this(DEFAULT_MESSAGE_TEMPLATE
                 .replace("%messageTemplateType_displayName%", type.getDisplayName())
                 .replace("%messageTemplateType_codeBlock%", type.getCodeBlock())
-                .replace("%messageTemplateType_messagePrefix%", type.getMessagePrefix());
+                .replace("%messageTemplateType_messagePrefix%", type.getMessagePrefix()));
     }
 
+    /**
+     * Applies the message to this template using the current time as timestamp. Prefer {@link #applyMessage(String, Instant)} with the
+     * time the event happened, as the message might be sent later.
+     *
+     * @param message the message to insert into the template
+     *
+     * @return the formatted message
+     */
     public String applyMessage(String message) {
-        return this.messageTemplateString
-                .replace("%timestamp%", valueOf(currentTimeMillis()).substring(0, 10))
-                .replace("%message%", message);
+        return applyMessage(message, Instant.now());
+    }
+
+    /**
+     * Applies the message and the timestamp to this template. Every {@link TimestampFormat} placeholder contained in the template is
+     * replaced by the timestamp in the corresponding format.
+     *
+     * @param message   the message to insert into the template
+     * @param timestamp the time the logged event happened
+     *
+     * @return the formatted message
+     */
+    public String applyMessage(String message, @NotNull Instant timestamp) {
+        Map<TimestampFormat, String> formattedTimestamps = formatTimestamps(timestamp.getEpochSecond());
+
+        String result = this.messageTemplateString;
+        for (Map.Entry<TimestampFormat, String> formattedTimestamp : formattedTimestamps.entrySet()) {
+            result = result.replace(formattedTimestamp.getKey().getPlaceholder(), formattedTimestamp.getValue());
+        }
+
+        return result.replace("%message%", message);
+    }
+
+    Map<TimestampFormat, String> formatTimestamps(long epochSecond) {
+        CachedTimestamps cached = this.cachedTimestamps;
+        if (cached.epochSecond() == epochSecond) {
+            return cached.formattedTimestamps();
+        }
+
+        Map<TimestampFormat, String> formattedTimestamps = new EnumMap<>(TimestampFormat.class);
+        for (TimestampFormat timestampFormat : this.timestampFormats) {
+            formattedTimestamps.put(timestampFormat, timestampFormat.getFormatter().apply(epochSecond));
+        }
+
+        this.cachedTimestamps = new CachedTimestamps(epochSecond, formattedTimestamps);
+        return formattedTimestamps;
+    }
+
+    private record CachedTimestamps(long epochSecond, Map<TimestampFormat, String> formattedTimestamps) {}
+
+    @Getter
+    @AllArgsConstructor
+    public enum TimestampFormat {
+
+        EPOCH_SECONDS("%timestamp%", epochSecond -> Long.toString(epochSecond)),
+        DISCORD_RELATIVE("%timestamp_relative%", epochSecond -> "<t:" + epochSecond + ":R>"),
+        ISO_8601("%timestamp_iso%", epochSecond -> ISO_INSTANT.format(Instant.ofEpochSecond(epochSecond)));
+
+        /**
+         * The placeholder in the message template that is replaced by the formatted timestamp.
+         */
+        private final String placeholder;
+
+        /**
+         * Formats the epoch second of the timestamp.
+         */
+        private final LongFunction<String> formatter;
     }
 
     @Getter
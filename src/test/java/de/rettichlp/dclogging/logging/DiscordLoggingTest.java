@@ -8,14 +8,13 @@ import net.dv8tion.jda.api.entities.channel.concrete.TextChannel;
 import net.dv8tion.jda.api.requests.restaction.MessageCreateAction;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.ArgumentMatcher;
 
-import java.util.regex.Pattern;
+import java.time.Clock;
+import java.time.Instant;
 
-import static java.util.regex.Pattern.compile;
+import static java.time.ZoneOffset.UTC;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.anyString;
-import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -46,6 +45,7 @@ public class DiscordLoggingTest {
                 .jda(this.jdaMock)
                 .guildId("testGuildId")
                 .textChannelId("testChannelId")
+                .clock(Clock.fixed(Instant.ofEpochSecond(1700000000), UTC))
                 .build();
     }
 
@@ -53,15 +53,15 @@ public class DiscordLoggingTest {
     void testInfoMessageSend() {
         this.discordLogging.info("Test information message");
 
-        StringRegexArgumentMatcher stringRegexArgumentMatcher = new StringRegexArgumentMatcher("""
-                <t:\\d{10}:F> \\*\\*INFORMATION\\*\\*
+        String expectedMessage = """
+                <t:1700000000:F> **INFORMATION**
                 ```fix
                 Test information message
                 ```
-                """);
+                """;
 
         // Verify that the message was sent
-        verify(this.textChannelMock, times(1)).sendMessage(argThat(stringRegexArgumentMatcher));
+        verify(this.textChannelMock, times(1)).sendMessage(expectedMessage);
         verify(this.messageCreateAction, times(1)).queue();
     }
 
@@ -69,15 +69,15 @@ public class DiscordLoggingTest {
     void testWarnMessageSend() {
         this.discordLogging.warn("Test warning message");
 
-        StringRegexArgumentMatcher stringRegexArgumentMatcher = new StringRegexArgumentMatcher("""
-                <t:\\d{10}:F> \\*\\*WARNING\\*\\*
+        String expectedMessage = """
+                <t:1700000000:F> **WARNING**
                 ```bash
                 Test warning message
                 ```
-                """);
+                """;
 
         // Verify that the message was sent
-        verify(this.textChannelMock, times(1)).sendMessage(argThat(stringRegexArgumentMatcher));
+        verify(this.textChannelMock, times(1)).sendMessage(expectedMessage);
         verify(this.messageCreateAction, times(1)).queue();
     }
 
@@ -85,15 +85,15 @@ public class DiscordLoggingTest {
     void testErrorMessageSend() {
         this.discordLogging.error("Test error message");
 
-        StringRegexArgumentMatcher stringRegexArgumentMatcher = new StringRegexArgumentMatcher("""
-                <t:\\d{10}:F> \\*\\*ERROR\\*\\*
+        String expectedMessage = """
+                <t:1700000000:F> **ERROR**
                 ```diff
                 - Test error message
                 ```
-                """);
+                """;
 
         // Verify that the message was sent
-        verify(this.textChannelMock, times(1)).sendMessage(argThat(stringRegexArgumentMatcher));
+        verify(this.textChannelMock, times(1)).sendMessage(expectedMessage);
         verify(this.messageCreateAction, times(1)).queue();
     }
 
@@ -101,15 +101,15 @@ public class DiscordLoggingTest {
     void testInfoMessageSendWithArguments() {
         this.discordLogging.info("Test {} {}", "information", "message");
 
-        StringRegexArgumentMatcher stringRegexArgumentMatcher = new StringRegexArgumentMatcher("""
-                <t:\\d{10}:F> \\*\\*INFORMATION\\*\\*
+        String expectedMessage = """
+                <t:1700000000:F> **INFORMATION**
                 ```fix
                 Test information message
                 ```
-                """);
+                """;
 
         // Verify that the message was sent
-        verify(this.textChannelMock, times(1)).sendMessage(argThat(stringRegexArgumentMatcher));
+        verify(this.textChannelMock, times(1)).sendMessage(expectedMessage);
         verify(this.messageCreateAction, times(1)).queue();
     }
 
@@ -117,15 +117,15 @@ public class DiscordLoggingTest {
     void testWarnMessageSendWithArguments() {
         this.discordLogging.warn("Test {} {}", "warning", "message");
 
-        StringRegexArgumentMatcher stringRegexArgumentMatcher = new StringRegexArgumentMatcher("""
-                <t:\\d{10}:F> \\*\\*WARNING\\*\\*
+        String expectedMessage = """
+                <t:1700000000:F> **WARNING**
                 ```bash
                 Test warning message
                 ```
-                """);
+                """;
 
         // Verify that the message was sent
-        verify(this.textChannelMock, times(1)).sendMessage(argThat(stringRegexArgumentMatcher));
+        verify(this.textChannelMock, times(1)).sendMessage(expectedMessage);
         verify(this.messageCreateAction, times(1)).queue();
     }
 
@@ -133,15 +133,15 @@ public class DiscordLoggingTest {
     void testErrorMessageSendWithArguments() {
         this.discordLogging.error("Test {} {}", "error", "message");
 
-        StringRegexArgumentMatcher stringRegexArgumentMatcher = new StringRegexArgumentMatcher("""
-                <t:\\d{10}:F> \\*\\*ERROR\\*\\*
+        String expectedMessage = """
+                <t:1700000000:F> **ERROR**
                 ```diff
                 - Test error message
                 ```
-                """);
+                """;
 
         // Verify that the message was sent
-        verify(this.textChannelMock, times(1)).sendMessage(argThat(stringRegexArgumentMatcher));
+        verify(this.textChannelMock, times(1)).sendMessage(expectedMessage);
         verify(this.messageCreateAction, times(1)).queue();
     }
 
@@ -160,18 +160,4 @@ public class DiscordLoggingTest {
 
         assertThrows(InvalidChannelIdException.class, () -> discordLogging.info("Test message"));
     }
-
-    private static class StringRegexArgumentMatcher implements ArgumentMatcher<String> {
-
-        private final Pattern pattern;
-
-        StringRegexArgumentMatcher(String regex) {
-            this.pattern = compile(regex);
-        }
-
-        @Override
-        public boolean matches(String argument) {
-            return this.pattern.matcher(argument).matches();
-        }
-    }
 }
@@ -1,13 +1,17 @@
 package de.rettichlp.dclogging.logging;
 
+import de.rettichlp.dclogging.message.MessageTemplate;
 import net.dv8tion.jda.api.entities.channel.concrete.TextChannel;
 import net.dv8tion.jda.api.requests.restaction.MessageCreateAction;
 import net.dv8tion.jda.api.utils.FileUpload;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.time.Instant;
+
 import static de.rettichlp.dclogging.message.MessageTemplate.MessageTemplateType.ERROR;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.startsWith;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
@@ -32,7 +36,7 @@ class LogMessageTest {
     void testSendMessageWithoutThrowable() {
         LogMessage logMessage = LogMessage.builder()
                 .message("Test message without throwable")
-                .messageTemplateType(ERROR)
+                .messageTemplate(new MessageTemplate(ERROR))
                 .build();
 
         logMessage.send(this.textChannelMock);
@@ -48,7 +52,7 @@ class LogMessageTest {
 
         LogMessage logMessage = LogMessage.builder()
                 .message("Test message with throwable")
-                .messageTemplateType(ERROR)
+                .messageTemplate(new MessageTemplate(ERROR))
                 .throwable(throwable)
                 .build();
 
@@ -58,4 +62,18 @@ class LogMessageTest {
         verify(this.textChannelMock, times(1)).sendMessage(anyString());
         verify(this.messageCreateActionMock, times(1)).addFiles(any(FileUpload.class));
     }
+
+    @Test
+    void testSendMessageUsesEventTimestamp() {
+        LogMessage logMessage = LogMessage.builder()
+                .message("Test message with timestamp")
+                .messageTemplate(new MessageTemplate(ERROR))
+                .timestamp(Instant.ofEpochSecond(1700000000))
+                .build();
+
+        logMessage.send(this.textChannelMock);
+
+        // Verify that the message was sent with the timestamp of the event
+        verify(this.textChannelMock, times(1)).sendMessage(startsWith("<t:1700000000:F>"));
+    }
 }
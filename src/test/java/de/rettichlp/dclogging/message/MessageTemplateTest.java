@@ -2,53 +2,61 @@ package de.rettichlp.dclogging.message;
 
 import org.junit.jupiter.api.Test;
 
+import java.time.Instant;
+import java.util.Set;
+
 import static de.rettichlp.dclogging.message.MessageTemplate.MessageTemplateType.ERROR;
 import static de.rettichlp.dclogging.message.MessageTemplate.MessageTemplateType.INFO;
 import static de.rettichlp.dclogging.message.MessageTemplate.MessageTemplateType.WARN;
-import static org.junit.jupiter.api.Assertions.assertTrue;
+import static de.rettichlp.dclogging.message.MessageTemplate.TimestampFormat.EPOCH_SECONDS;
+import static de.rettichlp.dclogging.message.MessageTemplate.TimestampFormat.ISO_8601;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 public class MessageTemplateTest {
 
+    private static final Instant TIMESTAMP = Instant.ofEpochSecond(1700000000);
+
     @Test
     void testApplyMessageInfo() {
         MessageTemplate template = new MessageTemplate(INFO);
 
-        String formattedMessage = template.applyMessage("This is a test message");
+        String formattedMessage = template.applyMessage("This is a test message", TIMESTAMP);
 
-        assertTrue(formattedMessage.matches("""
-                <t:\\d{10}:F> \\*\\*INFORMATION\\*\\*
+        assertEquals("""
+                <t:1700000000:F> **INFORMATION**
                 ```fix
                 This is a test message
                 ```
-                """));
+                """, formattedMessage);
     }
 
     @Test
     void testApplyMessageWarn() {
         MessageTemplate template = new MessageTemplate(WARN);
 
-        String formattedMessage = template.applyMessage("This is a test message");
+        String formattedMessage = template.applyMessage("This is a test message", TIMESTAMP);
 
-        assertTrue(formattedMessage.matches("""
-                <t:\\d{10}:F> \\*\\*WARNING\\*\\*
+        assertEquals("""
+                <t:1700000000:F> **WARNING**
                 ```bash
                 This is a test message
                 ```
-                """));
+                """, formattedMessage);
     }
 
     @Test
     void testApplyMessageError() {
         MessageTemplate template = new MessageTemplate(ERROR);
 
-        String formattedMessage = template.applyMessage("This is a test message");
+        String formattedMessage = template.applyMessage("This is a test message", TIMESTAMP);
 
-        assertTrue(formattedMessage.matches("""
-                <t:\\d{10}:F> \\*\\*ERROR\\*\\*
+        assertEquals("""
+                <t:1700000000:F> **ERROR**
                 ```diff
                 - This is a test message
                 ```
-                """));
+                """, formattedMessage);
     }
 
     @Test
@@ -57,8 +65,39 @@ public class MessageTemplateTest {
         MessageTemplate messageTemplate = new MessageTemplate(customMessageTemplate);
 
         String message = "test_message_custom";
-        String result = messageTemplate.applyMessage(message);
+        String result = messageTemplate.applyMessage(message, TIMESTAMP);
+
+        assertEquals("1700000000 - " + message + " - test123", result);
+    }
+
+    @Test
+    void testMessageTemplateTimestampFormats() {
+        String customMessageTemplate = "%timestamp% %timestamp_relative% %timestamp_iso% - %message%";
+        MessageTemplate messageTemplate = new MessageTemplate(customMessageTemplate);
+
+        String result = messageTemplate.applyMessage("test_message_formats", TIMESTAMP.plusMillis(999));
+
+        assertEquals("1700000000 <t:1700000000:R> 2023-11-14T22:13:20Z - test_message_formats", result);
+    }
+
+    @Test
+    void testMessageTemplateTimestampCache() {
+        MessageTemplate messageTemplate = new MessageTemplate("%timestamp_iso% - %message%");
+        long epochSecond = TIMESTAMP.getEpochSecond();
+
+        String formattedTimestamp = messageTemplate.formatTimestamps(epochSecond).get(ISO_8601);
+        assertEquals("2023-11-14T22:13:20Z", formattedTimestamp);
+        assertSame(formattedTimestamp, messageTemplate.formatTimestamps(epochSecond).get(ISO_8601));
+
+        String nextFormattedTimestamp = messageTemplate.formatTimestamps(epochSecond + 1).get(ISO_8601);
+        assertEquals("2023-11-14T22:13:21Z", nextFormattedTimestamp);
+        assertSame(nextFormattedTimestamp, messageTemplate.formatTimestamps(epochSecond + 1).get(ISO_8601));
+    }
+
+    @Test
+    void testMessageTemplateFormatsOnlyUsedTimestamps() {
+        MessageTemplate messageTemplate = new MessageTemplate("%timestamp% - %message%");
 
-        assert result.matches("\\d{10} - " + message + " - test123");
+        assertEquals(Set.of(EPOCH_SECONDS), messageTemplate.formatTimestamps(TIMESTAMP.getEpochSecond()).keySet());
     }
 }